@@ -0,0 +1,186 @@
+package com.test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Snapshot of the purchase flow taken after a step completes: everything needed to resume
+ * from the next step in the same browser session or in a freshly restored one.
+ * Persisted as a properties file so a rerun of {@link SeleniumTest} can pick it up.
+ */
+public class FlowCheckpoint {
+
+	private final String completedStep;
+	private final String url;
+	private final String windowHandle;
+	private final String mainWindowHandle;
+	private final boolean loggedIn;
+	private final long elapsedMs;
+	private final List<Cookie> cookies;
+
+	FlowCheckpoint(String completedStep, String url, String windowHandle, String mainWindowHandle,
+			boolean loggedIn, long elapsedMs, List<Cookie> cookies) {
+		this.completedStep = completedStep;
+		this.url = url;
+		this.windowHandle = windowHandle;
+		this.mainWindowHandle = mainWindowHandle;
+		this.loggedIn = loggedIn;
+		this.elapsedMs = elapsedMs;
+		this.cookies = cookies;
+	}
+
+	/**
+	 * Records the live browser state after the given step
+	 *
+	 * @param loggedIn whether the login was confirmed before this checkpoint
+	 * @param elapsedMs cumulative time spent reaching this checkpoint from a cold start
+	 */
+	public static FlowCheckpoint capture(String completedStep, WebDriver driver, String mainWindowHandle,
+			boolean loggedIn, long elapsedMs) {
+		return new FlowCheckpoint(completedStep, driver.getCurrentUrl(), driver.getWindowHandle(),
+			mainWindowHandle, loggedIn, elapsedMs, new ArrayList<>(driver.manage().getCookies()));
+	}
+
+	public String getCompletedStep() {
+		return completedStep;
+	}
+
+	public String getUrl() {
+		return url;
+	}
+
+	public String getWindowHandle() {
+		return windowHandle;
+	}
+
+	public String getMainWindowHandle() {
+		return mainWindowHandle;
+	}
+
+	public boolean isLoggedIn() {
+		return loggedIn;
+	}
+
+	public long getElapsedMs() {
+		return elapsedMs;
+	}
+
+	public List<Cookie> getCookies() {
+		return cookies;
+	}
+
+	public void save(Path file) throws IOException {
+		Properties properties = new Properties();
+		properties.setProperty("step", completedStep);
+		properties.setProperty("url", nullToEmpty(url));
+		properties.setProperty("windowHandle", nullToEmpty(windowHandle));
+		properties.setProperty("mainWindowHandle", nullToEmpty(mainWindowHandle));
+		properties.setProperty("loggedIn", String.valueOf(loggedIn));
+		properties.setProperty("elapsedMs", String.valueOf(elapsedMs));
+		properties.setProperty("cookie.count", String.valueOf(cookies.size()));
+		for (int i = 0; i < cookies.size(); i++) {
+			Cookie cookie = cookies.get(i);
+			String prefix = "cookie." + i + ".";
+			properties.setProperty(prefix + "name", cookie.getName());
+			properties.setProperty(prefix + "value", cookie.getValue());
+			properties.setProperty(prefix + "domain", nullToEmpty(cookie.getDomain()));
+			properties.setProperty(prefix + "path", nullToEmpty(cookie.getPath()));
+			properties.setProperty(prefix + "secure", String.valueOf(cookie.isSecure()));
+			properties.setProperty(prefix + "httpOnly", String.valueOf(cookie.isHttpOnly()));
+			if (cookie.getExpiry() != null) {
+				properties.setProperty(prefix + "expiry", String.valueOf(cookie.getExpiry().getTime()));
+			}
+		}
+
+		if (file.getParent() != null) {
+			Files.createDirectories(file.getParent());
+		}
+		// The file holds session cookies, so keep it readable by the owner only
+		if (Files.getFileStore(file.getParent() != null ? file.getParent() : file.toAbsolutePath().getParent())
+				.supportsFileAttributeView(PosixFileAttributeView.class)) {
+			Set<PosixFilePermission> ownerOnly = PosixFilePermissions.fromString("rw-------");
+			if (Files.exists(file)) {
+				Files.setPosixFilePermissions(file, ownerOnly);
+			} else {
+				Files.createFile(file, PosixFilePermissions.asFileAttribute(ownerOnly));
+			}
+		}
+		try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+			properties.store(writer, "Purchase flow checkpoint");
+		}
+	}
+
+	/**
+	 * Loads a previously saved checkpoint, or returns null when there is none
+	 *
+	 * @throws IOException if the file cannot be read or has no completed step
+	 */
+	public static FlowCheckpoint load(Path file) throws IOException {
+		if (!Files.isRegularFile(file)) {
+			return null;
+		}
+		Properties properties = new Properties();
+		try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+			properties.load(reader);
+		}
+		String step = properties.getProperty("step", "");
+		if (step.isEmpty()) {
+			throw new IOException("Checkpoint has no completed step");
+		}
+
+		List<Cookie> cookies = new ArrayList<>();
+		int cookieCount = Integer.parseInt(properties.getProperty("cookie.count", "0"));
+		for (int i = 0; i < cookieCount; i++) {
+			String prefix = "cookie." + i + ".";
+			Cookie.Builder builder = new Cookie.Builder(
+					properties.getProperty(prefix + "name"), properties.getProperty(prefix + "value"))
+				.isSecure(Boolean.parseBoolean(properties.getProperty(prefix + "secure")))
+				.isHttpOnly(Boolean.parseBoolean(properties.getProperty(prefix + "httpOnly")));
+			String domain = properties.getProperty(prefix + "domain", "");
+			if (!domain.isEmpty()) {
+				builder.domain(domain);
+			}
+			String path = properties.getProperty(prefix + "path", "");
+			if (!path.isEmpty()) {
+				builder.path(path);
+			}
+			String expiry = properties.getProperty(prefix + "expiry");
+			if (expiry != null) {
+				builder.expiresOn(new Date(Long.parseLong(expiry)));
+			}
+			cookies.add(builder.build());
+		}
+
+		return new FlowCheckpoint(
+			step,
+			properties.getProperty("url", ""),
+			properties.getProperty("windowHandle", ""),
+			properties.getProperty("mainWindowHandle", ""),
+			Boolean.parseBoolean(properties.getProperty("loggedIn")),
+			Long.parseLong(properties.getProperty("elapsedMs", "0")),
+			cookies);
+	}
+
+	public static void delete(Path file) throws IOException {
+		Files.deleteIfExists(file);
+	}
+
+	private static String nullToEmpty(String value) {
+		return value == null ? "" : value;
+	}
+}
@@ -0,0 +1,261 @@
+package com.test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.xml.xpath.XPath;
+import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+
+import org.jsoup.Jsoup;
+import org.jsoup.helper.W3CDom;
+import org.jsoup.nodes.Document;
+import org.w3c.dom.NodeList;
+
+/**
+ * Browserless health check for the locator fallbacks used by {@link SeleniumTest}.
+ * Every selector array is evaluated against saved DOM snapshots with Jsoup, so selectors
+ * that no longer match are reported in seconds instead of after a full browser run.
+ *
+ * Snapshots are read from {@code <dir>/<page>.html} (home, login, otp, results, product, account, account-menu).
+ * Capture them by running SeleniumTest with {@code -Dsnapshot.dir=<dir>}.
+ * Note: a match here only proves presence in the DOM, not visibility or clickability.
+ *
+ * Exit codes: 0 all elements healthy, 1 element(s) with no working selector,
+ * 2 check could not run, 3 snapshot(s) missing so some pages were not checked.
+ */
+public class SelectorHealthCheck {
+
+	private static final SeleniumTest.CustomLogger logger = new SeleniumTest.CustomLogger();
+
+	private static final String DEFAULT_SNAPSHOT_DIR = "snapshots";
+
+	private static final int EXIT_BROKEN_SELECTORS = 1;
+	private static final int EXIT_CHECK_FAILED = 2;
+	private static final int EXIT_MISSING_SNAPSHOTS = 3;
+
+	private enum LocatorType { XPATH, CLASS_NAME, NAME }
+
+	/**
+	 * One logical page element and the fallback selectors used to locate it
+	 */
+	private static class ElementCheck {
+		private final String page;
+		private final String element;
+		private final LocatorType type;
+		private final String[] selectors;
+
+		ElementCheck(String page, String element, LocatorType type, String... selectors) {
+			this.page = page;
+			this.element = element;
+			this.type = type;
+			this.selectors = selectors;
+		}
+	}
+
+	/**
+	 * Outcome of an element check; matchCounts[i] is -1 when selector i is invalid
+	 */
+	private static class CheckResult {
+		private final ElementCheck check;
+		private final int[] matchCounts;
+		private final boolean snapshotMissing;
+
+		CheckResult(ElementCheck check, int[] matchCounts, boolean snapshotMissing) {
+			this.check = check;
+			this.matchCounts = matchCounts;
+			this.snapshotMissing = snapshotMissing;
+		}
+
+		boolean hasWorkingSelector() {
+			for (int count : matchCounts) {
+				if (count > 0) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
+	private static final List<ElementCheck> CHECKS = List.of(
+		new ElementCheck("home", "Login button", LocatorType.XPATH, SeleniumTest.LOGIN_BUTTON_SELECTORS),
+		new ElementCheck("home", "Search box", LocatorType.NAME, SeleniumTest.SEARCH_BOX_NAME),
+		new ElementCheck("login", "Phone input field", LocatorType.XPATH, SeleniumTest.INPUT_FIELD_SELECTORS),
+		new ElementCheck("login", "Request OTP button", LocatorType.XPATH, SeleniumTest.SUBMIT_SELECTORS),
+		new ElementCheck("otp", "OTP input screen", LocatorType.XPATH, SeleniumTest.OTP_SCREEN_SELECTORS),
+		new ElementCheck("results", "Product link", LocatorType.XPATH,
+			SeleniumTest.productLinkXpath(SeleniumTest.PRODUCT_NAME)),
+		new ElementCheck("product", "Product details", LocatorType.CLASS_NAME, SeleniumTest.PRODUCT_INFO_CLASS_NAMES),
+		new ElementCheck("product", "Add to cart button", LocatorType.XPATH, SeleniumTest.ADD_TO_CART_SELECTORS),
+		new ElementCheck("account", "Account menu", LocatorType.XPATH, SeleniumTest.ACCOUNT_SELECTORS),
+		new ElementCheck("account-menu", "Logout option", LocatorType.XPATH, SeleniumTest.LOGOUT_SELECTORS)
+	);
+
+	public static void main(String[] args) {
+		logger.logTestStart("Selector Health Check");
+		long startTime = System.currentTimeMillis();
+
+		Path snapshotDir = Paths.get(args.length > 0 ? args[0] : System.getProperty("snapshot.dir", DEFAULT_SNAPSHOT_DIR));
+		logger.logInfo("Reading DOM snapshots from: " + snapshotDir.toAbsolutePath());
+
+		List<CheckResult> results;
+		try {
+			results = runChecks(snapshotDir);
+		} catch (Exception e) {
+			logger.logError("Selector health check failed", e);
+			logger.logTestEnd("Selector Health Check");
+			System.exit(EXIT_CHECK_FAILED);
+			return;
+		}
+
+		int broken = printReport(results);
+		logger.logInfo("Health check finished in " + (System.currentTimeMillis() - startTime) + "ms");
+		logger.logTestEnd("Selector Health Check");
+		if (broken > 0) {
+			System.exit(EXIT_BROKEN_SELECTORS);
+		}
+		if (countSkipped(results) > 0) {
+			System.exit(EXIT_MISSING_SNAPSHOTS);
+		}
+	}
+
+	/**
+	 * Evaluates all checks, parsing and converting each snapshot once and running the pages in parallel
+	 */
+	private static List<CheckResult> runChecks(Path snapshotDir) throws InterruptedException, ExecutionException {
+		Map<String, List<ElementCheck>> checksByPage = new LinkedHashMap<>();
+		for (ElementCheck check : CHECKS) {
+			checksByPage.computeIfAbsent(check.page, page -> new ArrayList<>()).add(check);
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(
+			Math.min(checksByPage.size(), Runtime.getRuntime().availableProcessors()));
+		try {
+			List<Future<List<CheckResult>>> futures = new ArrayList<>();
+			for (Map.Entry<String, List<ElementCheck>> entry : checksByPage.entrySet()) {
+				futures.add(executor.submit(() -> checkPage(snapshotDir, entry.getKey(), entry.getValue())));
+			}
+
+			List<CheckResult> results = new ArrayList<>();
+			for (Future<List<CheckResult>> future : futures) {
+				results.addAll(future.get());
+			}
+			return results;
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static List<CheckResult> checkPage(Path snapshotDir, String page, List<ElementCheck> checks) throws IOException {
+		List<CheckResult> results = new ArrayList<>();
+		Path snapshotFile = snapshotDir.resolve(page + ".html");
+		if (!Files.isRegularFile(snapshotFile)) {
+			for (ElementCheck check : checks) {
+				results.add(new CheckResult(check, new int[check.selectors.length], true));
+			}
+			return results;
+		}
+
+		Document document = Jsoup.parse(snapshotFile.toFile(), "UTF-8");
+		// Document.selectXpath rebuilds the W3C DOM on every call, so convert once and reuse it
+		org.w3c.dom.Document w3cDocument = new W3CDom().namespaceAware(false).fromJsoup(document);
+		XPath xpath = XPathFactory.newInstance().newXPath();
+		for (ElementCheck check : checks) {
+			int[] matchCounts = new int[check.selectors.length];
+			for (int i = 0; i < check.selectors.length; i++) {
+				matchCounts[i] = countMatches(document, w3cDocument, xpath, check.type, check.selectors[i]);
+			}
+			results.add(new CheckResult(check, matchCounts, false));
+		}
+		return results;
+	}
+
+	private static int countMatches(Document document, org.w3c.dom.Document w3cDocument, XPath xpath,
+			LocatorType type, String selector) {
+		switch (type) {
+			case CLASS_NAME:
+				return document.getElementsByClass(selector).size();
+			case NAME:
+				return document.getElementsByAttributeValue("name", selector).size();
+			default:
+				try {
+					return ((NodeList) xpath.evaluate(selector, w3cDocument, XPathConstants.NODESET)).getLength();
+				} catch (XPathExpressionException e) {
+					return -1;
+				}
+		}
+	}
+
+	/**
+	 * Logs per-selector results and a summary; returns the number of elements with no working selector
+	 */
+	private static int printReport(List<CheckResult> results) {
+		List<String> brokenElements = new ArrayList<>();
+		List<String> skippedPages = new ArrayList<>();
+
+		for (CheckResult result : results) {
+			ElementCheck check = result.check;
+			String label = check.page + " / " + check.element;
+			if (result.snapshotMissing) {
+				logger.logWarning(label + ": snapshot " + check.page + ".html not found - skipped");
+				if (!skippedPages.contains(check.page)) {
+					skippedPages.add(check.page);
+				}
+				continue;
+			}
+
+			logger.logInfo(label + " (" + check.type + ")");
+			for (int i = 0; i < check.selectors.length; i++) {
+				int count = result.matchCounts[i];
+				if (count > 0) {
+					logger.logSuccess("   MATCH (" + count + " node" + (count == 1 ? "" : "s") + "): " + check.selectors[i]);
+				} else if (count == 0) {
+					logger.logWarning("   NO MATCH: " + check.selectors[i]);
+				} else {
+					logger.logError("   INVALID SELECTOR: " + check.selectors[i], null);
+				}
+			}
+			if (!result.hasWorkingSelector()) {
+				brokenElements.add(label);
+			}
+		}
+
+		logger.logInfo("=== SELECTOR HEALTH SUMMARY ===");
+		int checked = results.size() - countSkipped(results);
+		logger.logInfo("Elements checked: " + checked + " of " + results.size());
+		if (!skippedPages.isEmpty()) {
+			logger.logWarning("Pages without snapshot: " + String.join(", ", skippedPages));
+		}
+		if (checked == 0) {
+			logger.logError("No snapshots found - nothing was checked", null);
+		} else if (brokenElements.isEmpty()) {
+			logger.logSuccess("Every checked element has at least one working selector");
+		} else {
+			for (String element : brokenElements) {
+				logger.logError("No working selector left for: " + element, null);
+			}
+		}
+		return brokenElements.size();
+	}
+
+	private static int countSkipped(List<CheckResult> results) {
+		int skipped = 0;
+		for (CheckResult result : results) {
+			if (result.snapshotMissing) {
+				skipped++;
+			}
+		}
+		return skipped;
+	}
+}